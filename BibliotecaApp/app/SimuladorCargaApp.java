@@ -0,0 +1,27 @@
+package app;
+
+import exceptions.InvalidDataException;
+import simulacion.ConfiguracionSimulacion;
+import simulacion.ResultadoSimulacion;
+import simulacion.SimuladorCarga;
+
+/**
+ * Uso: java app.SimuladorCargaApp [usuarios=N] [libros=N] [ejemplares=N] [zipf=S] [hilos=N]
+ *      [semanas=N] [solicitudesPorDia=N] [retraso=P] [retrasoMax=N]
+ *      [semilla=N] [inicio=AAAA-MM-DD]
+ */
+public class SimuladorCargaApp {
+    public static void main(String[] args) throws InterruptedException {
+        SimuladorCarga simulador;
+        try {
+            simulador = new SimuladorCarga(ConfiguracionSimulacion.desdeArgumentos(args));
+        } catch (InvalidDataException e) {
+            System.out.println("Error: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+        // un fallo en un hilo trabajador se propaga: traza completa y código de salida distinto de 0
+        ResultadoSimulacion r = simulador.ejecutar();
+        System.out.print(r.informe());
+    }
+}
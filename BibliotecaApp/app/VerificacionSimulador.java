@@ -0,0 +1,170 @@
+package app;
+
+import exceptions.InvalidDataException;
+import model.Libro;
+import model.Usuario;
+import service.Biblioteca;
+import simulacion.ConfiguracionSimulacion;
+import simulacion.DistribucionZipf;
+import simulacion.RegistroLatencias;
+import simulacion.RelojSimulado;
+import simulacion.ResultadoSimulacion;
+import simulacion.SimuladorCarga;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+/**
+ * Chequeos ejecutables del reloj inyectable y del simulador. Uso: java app.VerificacionSimulador
+ * Termina con código 1 si alguno falla.
+ */
+public class VerificacionSimulador {
+    private static int fallos = 0;
+
+    public static void main(String[] args) throws Exception {
+        verificarMultaPorRetraso(4, true);
+        verificarMultaPorRetraso(4, false);
+        verificarMultaPorRetraso(0, true);
+        verificarDeterminismoUnHilo();
+        verificarSimuladorDeUnSoloUso();
+        verificarPercentiles();
+        verificarZipf();
+        verificarRelojCompartido();
+        verificarAnioLibroConReloj();
+        verificarArgumentos();
+        if (fallos > 0) {
+            System.out.println(fallos + " chequeo(s) fallaron.");
+            System.exit(1);
+        }
+        System.out.println("Todos los chequeos pasaron.");
+    }
+
+    // un préstamo devuelto N días tarde debe terminar en exactamente N × 500, con o sin tick diario
+    private static void verificarMultaPorRetraso(int diasRetraso, boolean conTickDiario) throws Exception {
+        RelojSimulado reloj = new RelojSimulado(LocalDate.of(2024, 3, 1), ZoneOffset.UTC);
+        Biblioteca b = new Biblioteca(reloj);
+        b.agregarLibro(new Libro("9780306406157", "El Principito", "A. Saint-Exupéry", 1943, 1, reloj));
+        Usuario u = b.registrarUsuario(new Usuario("Juan Perez", "juan@example.com"));
+        b.realizarPrestamo(u.getId(), "9780306406157");
+        for (int dia = 0; dia < 14 + diasRetraso; dia++) {
+            reloj.avanzarDias(1);
+            if (conTickDiario) b.evaluarPrestamosYMultas();
+        }
+        b.devolverLibro(u.getId(), "9780306406157");
+        if (conTickDiario) b.evaluarPrestamosYMultas(); // un tick posterior no debe volver a cobrar
+        BigDecimal esperado = new BigDecimal(500L * diasRetraso);
+        verificar(u.getMultas().compareTo(esperado) == 0,
+                String.format("multa con %d días de retraso (tick diario=%s): esperado %s, obtenido %s",
+                        diasRetraso, conTickDiario, esperado, u.getMultas()));
+    }
+
+    // con un hilo y la misma semilla, dos corridas deben dar exactamente los mismos conteos
+    private static void verificarDeterminismoUnHilo() throws InterruptedException {
+        ConfiguracionSimulacion config = new ConfiguracionSimulacion(500, 400, 2, 0.9,
+                1, 4, 300, 0.3, 7, 1234L, LocalDate.of(2024, 3, 1));
+        String a = resumen(new SimuladorCarga(config).ejecutar());
+        String b = resumen(new SimuladorCarga(config).ejecutar());
+        verificar(a.equals(b), "corridas con hilos=1 y misma semilla: " + a + (a.equals(b) ? "" : " vs " + b));
+    }
+
+    private static String resumen(ResultadoSimulacion r) {
+        return String.format("prestamos=%d devoluciones=%d sinEjemplares=%d sinCupo=%d pendientes=%d conMultas=%d",
+                r.getPrestamos(), r.getDevoluciones(), r.getRechazosSinEjemplares(), r.getRechazosUsuario(),
+                r.getPrestamosPendientes(), r.getUsuariosConMultas());
+    }
+
+    private static void verificarSimuladorDeUnSoloUso() throws InterruptedException {
+        SimuladorCarga sim = new SimuladorCarga(new ConfiguracionSimulacion(10, 10, 1, 1.0,
+                1, 1, 10, 0.2, 5, 1L, LocalDate.of(2024, 3, 1)));
+        sim.ejecutar();
+        boolean rechazado = false;
+        try {
+            sim.ejecutar();
+        } catch (IllegalStateException e) {
+            rechazado = true;
+        }
+        verificar(rechazado, "una segunda llamada a ejecutar() se rechaza");
+    }
+
+    // percentil por rango más cercano sobre 1..1000 µs, cargado en dos registros y combinado
+    private static void verificarPercentiles() {
+        RegistroLatencias vacio = new RegistroLatencias();
+        verificar(vacio.percentil(50) == 0 && vacio.maximo() == 0, "registro vacío devuelve 0");
+
+        RegistroLatencias a = new RegistroLatencias();
+        RegistroLatencias b = new RegistroLatencias();
+        for (int i = 1000; i > 500; i--) a.registrar(i);
+        for (int i = 1; i <= 500; i++) b.registrar(i);
+        a.combinar(b);
+        verificar(a.getCantidad() == 1000, "combinar suma las muestras: " + a.getCantidad());
+        verificar(a.percentil(50) == 500 && a.percentil(99) == 990 && a.percentil(99.9) == 999 && a.maximo() == 1000,
+                String.format("p50/p99/p999/max sobre 1..1000: %d/%d/%d/%d",
+                        a.percentil(50), a.percentil(99), a.percentil(99.9), a.maximo()));
+    }
+
+    private static void verificarZipf() {
+        int n = 10, muestras = 100_000;
+        int[] uniforme = contar(new DistribucionZipf(n, 0), n, muestras);
+        boolean parejo = true;
+        for (int c : uniforme) parejo &= Math.abs(c - muestras / n) < muestras / n / 10;
+        verificar(parejo, "Zipf con s=0 es uniforme (±10%)");
+
+        int[] sesgada = contar(new DistribucionZipf(n, 1.0), n, muestras);
+        boolean rango0Maximo = true;
+        for (int i = 1; i < n; i++) rango0Maximo &= sesgada[0] > sesgada[i];
+        verificar(rango0Maximo, "Zipf con s=1 tiene el rango 0 como el más frecuente");
+    }
+
+    private static int[] contar(DistribucionZipf zipf, int n, int muestras) {
+        Random rnd = new Random(99);
+        int[] cuentas = new int[n];
+        for (int i = 0; i < muestras; i++) cuentas[zipf.muestrear(rnd)]++;
+        return cuentas;
+    }
+
+    private static void verificarRelojCompartido() {
+        RelojSimulado reloj = new RelojSimulado(LocalDate.of(2024, 3, 1), ZoneOffset.UTC);
+        Clock otraZona = reloj.withZone(ZoneId.of("America/Bogota"));
+        reloj.avanzarDias(3);
+        verificar(otraZona.instant().equals(reloj.instant()) && !otraZona.getZone().equals(reloj.getZone()),
+                "withZone comparte el instante del reloj original");
+    }
+
+    private static void verificarAnioLibroConReloj() {
+        RelojSimulado reloj = new RelojSimulado(LocalDate.of(2000, 6, 1), ZoneOffset.UTC);
+        Libro libro = new Libro("9780306406157", "El Principito", "A. Saint-Exupéry", 2000, 1, reloj);
+        verificar(libro.getAnio() == 2000, "año igual al del reloj se acepta");
+        verificar(lanzaInvalidData(() -> new Libro("9780306406157", "X", "Y", 2001, 1, reloj)),
+                "año posterior al del reloj se rechaza en el constructor");
+        verificar(lanzaInvalidData(() -> libro.setAnio(2001)), "año posterior al del reloj se rechaza en setAnio");
+    }
+
+    private static void verificarArgumentos() {
+        verificar(lanzaInvalidData(() -> ConfiguracionSimulacion.desdeArgumentos(new String[]{"hilo=8"})),
+                "clave desconocida se rechaza");
+        verificar(lanzaInvalidData(() -> ConfiguracionSimulacion.desdeArgumentos(new String[]{"semanas"})),
+                "argumento sin '=' se rechaza");
+        ConfiguracionSimulacion pocos = ConfiguracionSimulacion.desdeArgumentos(new String[]{"usuarios=1"});
+        verificar(pocos.getHilos() == 1, "hilos por defecto no supera a usuarios: " + pocos.getHilos());
+        verificar(lanzaInvalidData(() -> ConfiguracionSimulacion.desdeArgumentos(new String[]{"usuarios=1", "hilos=2"})),
+                "hilos explícito mayor que usuarios se rechaza");
+    }
+
+    private static boolean lanzaInvalidData(Runnable accion) {
+        try {
+            accion.run();
+            return false;
+        } catch (InvalidDataException e) {
+            return true;
+        }
+    }
+
+    private static void verificar(boolean condicion, String descripcion) {
+        System.out.println((condicion ? "OK    " : "FALLO ") + descripcion);
+        if (!condicion) fallos++;
+    }
+}
@@ -3,6 +3,8 @@ package model;
 import exceptions.InvalidDataException;
 import exceptions.LibroNoDisponibleException;
 
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -14,10 +16,16 @@ public class Libro {
     private final AtomicInteger ejemplaresTotales = new AtomicInteger(0);
     private final AtomicInteger ejemplaresDisponibles = new AtomicInteger(0);
     private final AtomicInteger vecesPrestado = new AtomicInteger(0);
+    private final Clock reloj; // se usa para validar el año contra la fecha actual
 
     public Libro(String isbn, String titulo, String autor, int anio, int total) {
+        this(isbn, titulo, autor, anio, total, Clock.systemDefaultZone());
+    }
+
+    public Libro(String isbn, String titulo, String autor, int anio, int total, Clock reloj) {
+        this.reloj = Objects.requireNonNull(reloj);
         if (!validarIsbn(isbn)) throw new InvalidDataException("ISBN inválido (debe ser 13 dígitos).");
-        if (anio < 1450 || anio > java.time.LocalDate.now().getYear()) throw new InvalidDataException("Año inválido.");
+        if (!validarAnio(anio)) throw new InvalidDataException("Año inválido.");
         if (total < 0) throw new InvalidDataException("Ejemplares totales no puede ser negativo.");
         this.isbn = isbn;
         this.titulo = Objects.requireNonNull(titulo);
@@ -31,6 +39,10 @@ public class Libro {
         return isbn != null && isbn.matches("\\d{13}");
     }
 
+    private boolean validarAnio(int anio) {
+        return anio >= 1450 && anio <= LocalDate.now(reloj).getYear();
+    }
+
     public synchronized void prestar() throws LibroNoDisponibleException {
         if (ejemplaresDisponibles.get() <= 0) throw new LibroNoDisponibleException("No hay ejemplares disponibles de: " + titulo);
         ejemplaresDisponibles.decrementAndGet();
@@ -60,7 +72,7 @@ public class Libro {
     public void setTitulo(String titulo) { this.titulo = titulo; }
     public void setAutor(String autor) { this.autor = autor; }
     public void setAnio(int anio) {
-        if (anio < 1450 || anio > java.time.LocalDate.now().getYear()) throw new InvalidDataException("Año inválido.");
+        if (!validarAnio(anio)) throw new InvalidDataException("Año inválido.");
         this.anio = anio;
     }
 
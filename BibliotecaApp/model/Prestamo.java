@@ -1,6 +1,7 @@
 package model;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
@@ -11,19 +12,27 @@ public class Prestamo {
     private final LocalDate fechaPrestamo;
     private LocalDate fechaDevolucion; // null hasta que se devuelva
     private EstadoPrestamo estado;
+    private BigDecimal multaCobrada = BigDecimal.ZERO; // parte de la multa ya cargada al usuario
+    private final Clock reloj; // fuente de la fecha actual (inyectable para simulaciones)
     public static final int DIAS_PRESTAMO = 14;
     private static final BigDecimal MULTA_DIARIA = new BigDecimal("500"); // $500 por día
 
     public Prestamo(String isbn, int usuarioId) {
+        this(isbn, usuarioId, Clock.systemDefaultZone());
+    }
+
+    public Prestamo(String isbn, int usuarioId, Clock reloj) {
         this.isbn = Objects.requireNonNull(isbn);
         this.usuarioId = usuarioId;
-        this.fechaPrestamo = LocalDate.now();
+        this.reloj = Objects.requireNonNull(reloj);
+        this.fechaPrestamo = LocalDate.now(reloj);
         this.fechaDevolucion = fechaPrestamo.plusDays(DIAS_PRESTAMO);
         this.estado = EstadoPrestamo.ACTIVO;
     }
 
     public BigDecimal calcularMulta() {
-        LocalDate hoy = LocalDate.now();
+        // una vez devuelto, el retraso queda fijo en la fecha real de devolución
+        LocalDate hoy = estado == EstadoPrestamo.DEVUELTO ? fechaDevolucion : LocalDate.now(reloj);
         LocalDate limite = fechaPrestamo.plusDays(DIAS_PRESTAMO);
         if (hoy.isAfter(limite)) {
             long diasRetraso = ChronoUnit.DAYS.between(limite, hoy);
@@ -33,16 +42,24 @@ public class Prestamo {
         return BigDecimal.ZERO;
     }
 
+    // devuelve solo la multa aún no cobrada y la marca como cobrada
+    public synchronized BigDecimal cobrarMultaPendiente() {
+        BigDecimal pendiente = calcularMulta().subtract(multaCobrada);
+        if (pendiente.signum() <= 0) return BigDecimal.ZERO;
+        multaCobrada = multaCobrada.add(pendiente);
+        return pendiente;
+    }
+
     public void marcarDevuelto() {
         this.estado = EstadoPrestamo.DEVUELTO;
         // fechaDevolucion se puede actualizar a fecha real si se desea:
-        this.fechaDevolucion = LocalDate.now();
+        this.fechaDevolucion = LocalDate.now(reloj);
     }
 
     public void evaluarEstado() {
         if (estado == EstadoPrestamo.ACTIVO) {
             LocalDate limite = fechaPrestamo.plusDays(DIAS_PRESTAMO);
-            if (LocalDate.now().isAfter(limite)) estado = EstadoPrestamo.VENCIDO;
+            if (LocalDate.now(reloj).isAfter(limite)) estado = EstadoPrestamo.VENCIDO;
         }
     }
 
@@ -2,11 +2,13 @@ package service;
 
 import exceptions.LibroNoDisponibleException;
 import exceptions.UsuarioSinCupoException;
+import model.EstadoPrestamo;
 import model.Libro;
 import model.Prestamo;
 import model.Usuario;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -16,6 +18,15 @@ public class Biblioteca {
     private final Map<String, Libro> libros = new ConcurrentHashMap<>(); // clave: ISBN
     private final Map<Integer, Usuario> usuarios = new ConcurrentHashMap<>();
     private final List<Prestamo> prestamos = Collections.synchronizedList(new ArrayList<>());
+    private final Clock reloj; // fecha "actual" para préstamos y multas
+
+    public Biblioteca() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public Biblioteca(Clock reloj) {
+        this.reloj = Objects.requireNonNull(reloj);
+    }
 
     // sincronizar operaciones que cambian estado
     public synchronized void agregarLibro(Libro libro) {
@@ -54,7 +65,7 @@ public class Biblioteca {
             // intentar reservar libro
             libro.prestar(); // puede lanzar LibroNoDisponibleException
             usuario.agregarPrestamo(isbn);
-            Prestamo prestamo = new Prestamo(isbn, usuarioId);
+            Prestamo prestamo = new Prestamo(isbn, usuarioId, reloj);
             prestamos.add(prestamo);
             return prestamo;
         }
@@ -65,15 +76,15 @@ public class Biblioteca {
         Libro libro = libros.get(isbn);
         if (usuario == null || libro == null) return;
 
-        // buscar préstamo activo
+        // buscar préstamo pendiente (activo o vencido)
         Optional<Prestamo> opt = prestamos.stream()
-                .filter(p -> p.getUsuarioId() == usuarioId && p.getIsbn().equals(isbn) && p.getEstado().name().equals("ACTIVO"))
+                .filter(p -> p.getUsuarioId() == usuarioId && p.getIsbn().equals(isbn) && p.getEstado() != EstadoPrestamo.DEVUELTO)
                 .findFirst();
 
         if (opt.isPresent()) {
             Prestamo p = opt.get();
             p.marcarDevuelto();
-            BigDecimal multa = p.calcularMulta();
+            BigDecimal multa = p.cobrarMultaPendiente(); // el tick diario pudo haber cobrado una parte
             if (multa.compareTo(BigDecimal.ZERO) > 0) {
                 usuario.agregarMulta(multa);
             }
@@ -101,6 +112,11 @@ public class Biblioteca {
                 .collect(Collectors.toList());
     }
 
+    // copia de todos los préstamos, para recorrerlos sin escanear la lista por cada usuario
+    public List<Prestamo> obtenerPrestamos() {
+        return new ArrayList<>(prestamos);
+    }
+
     public List<Libro> listarLibrosDisponibles() {
         return libros.values().stream()
                 .filter(Libro::estaDisponible)
@@ -112,7 +128,7 @@ public class Biblioteca {
         for (Prestamo p : prestamos) {
             p.evaluarEstado();
             if (p.getEstado().name().equals("VENCIDO")) {
-                BigDecimal multa = p.calcularMulta();
+                BigDecimal multa = p.cobrarMultaPendiente(); // solo los días nuevos desde el último tick
                 Usuario u = usuarios.get(p.getUsuarioId());
                 if (u != null) u.agregarMulta(multa);
             }
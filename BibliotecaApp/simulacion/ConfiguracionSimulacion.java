@@ -0,0 +1,127 @@
+package simulacion;
+
+import exceptions.InvalidDataException;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Parámetros de una corrida del {@link SimuladorCarga}.
+ */
+public class ConfiguracionSimulacion {
+    private final int usuarios;
+    private final int libros;
+    private final int ejemplaresPorLibro;
+    private final double exponenteZipf;
+    private final int hilos;
+    private final int semanas;
+    private final int solicitudesPorDia; // intentos de préstamo por día; las devoluciones salen de la agenda de cada préstamo
+    private final double probabilidadRetraso; // chance de que un préstamo se devuelva después del plazo
+    private final int diasRetrasoMax; // un préstamo atrasado vuelve entre 1 y este número de días tarde
+    private final long semilla;
+    private final LocalDate fechaInicio;
+
+    public ConfiguracionSimulacion(int usuarios, int libros, int ejemplaresPorLibro, double exponenteZipf,
+                                   int hilos, int semanas, int solicitudesPorDia,
+                                   double probabilidadRetraso, int diasRetrasoMax, long semilla, LocalDate fechaInicio) {
+        if (usuarios <= 0 || libros <= 0) throw new InvalidDataException("Usuarios y libros deben ser positivos.");
+        if (!Double.isFinite(exponenteZipf) || exponenteZipf < 0) throw new InvalidDataException("Exponente Zipf debe ser finito y no negativo.");
+        if (ejemplaresPorLibro <= 0) throw new InvalidDataException("Ejemplares por libro debe ser positivo.");
+        if (hilos <= 0 || hilos > usuarios) throw new InvalidDataException("Hilos debe estar entre 1 y la cantidad de usuarios.");
+        if (semanas <= 0 || solicitudesPorDia < 0) throw new InvalidDataException("Duración o solicitudes inválidas.");
+        if (!(probabilidadRetraso >= 0 && probabilidadRetraso <= 1)) throw new InvalidDataException("Probabilidad de retraso inválida.");
+        if (diasRetrasoMax <= 0) throw new InvalidDataException("Días de retraso máximo debe ser positivo.");
+        if (libros > 10_000_000) throw new InvalidDataException("Demasiados libros para generar ISBN únicos.");
+        this.usuarios = usuarios;
+        this.libros = libros;
+        this.ejemplaresPorLibro = ejemplaresPorLibro;
+        this.exponenteZipf = exponenteZipf;
+        this.hilos = hilos;
+        this.semanas = semanas;
+        this.solicitudesPorDia = solicitudesPorDia;
+        this.probabilidadRetraso = probabilidadRetraso;
+        this.diasRetrasoMax = diasRetrasoMax;
+        this.semilla = semilla;
+        this.fechaInicio = Objects.requireNonNull(fechaInicio);
+    }
+
+    /**
+     * Un mes típico de cursada: 4 semanas, catálogo mediano, popularidad sesgada y un 20% de préstamos
+     * devueltos tarde, así que hay vencidos y multas desde la tercera semana.
+     */
+    public static ConfiguracionSimulacion porDefecto() {
+        return new ConfiguracionSimulacion(5_000, 5_000, 4, 0.7,
+                Runtime.getRuntime().availableProcessors(), 4, 1_200,
+                0.2, 10, 42L, LocalDate.of(2024, 3, 1));
+    }
+
+    /** Claves aceptadas por {@link #desdeArgumentos}. */
+    public static final List<String> CLAVES = List.of("usuarios", "libros", "ejemplares", "zipf", "hilos",
+            "semanas", "solicitudesPorDia", "retraso", "retrasoMax", "semilla", "inicio");
+
+    /** Interpreta argumentos de línea de comandos de la forma clave=valor. */
+    public static ConfiguracionSimulacion desdeArgumentos(String[] args) {
+        Map<String, String> opciones = new HashMap<>();
+        for (String a : args) {
+            int eq = a.indexOf('=');
+            if (eq <= 0) throw new InvalidDataException("Se espera clave=valor: " + a + ". Claves válidas: " + CLAVES);
+            opciones.put(a.substring(0, eq), a.substring(eq + 1));
+        }
+        return desdeArgumentos(opciones);
+    }
+
+    /**
+     * Crea una configuración a partir de pares clave=valor; las claves ausentes usan {@link #porDefecto()}.
+     * Una clave desconocida es un error: una corrida con parámetros distintos a los pedidos no sirve para dimensionar.
+     */
+    public static ConfiguracionSimulacion desdeArgumentos(Map<String, String> args) {
+        for (String clave : args.keySet()) {
+            if (!CLAVES.contains(clave)) throw new InvalidDataException("Clave desconocida: " + clave + ". Claves válidas: " + CLAVES);
+        }
+        ConfiguracionSimulacion d = porDefecto();
+        try {
+            int usuarios = Integer.parseInt(args.getOrDefault("usuarios", String.valueOf(d.usuarios)));
+            // sin hilos explícito no se usan más hilos que usuarios (cada hilo necesita su partición)
+            int hilos = args.containsKey("hilos") ? Integer.parseInt(args.get("hilos")) : Math.max(1, Math.min(d.hilos, usuarios));
+            return new ConfiguracionSimulacion(
+                    usuarios,
+                    Integer.parseInt(args.getOrDefault("libros", String.valueOf(d.libros))),
+                    Integer.parseInt(args.getOrDefault("ejemplares", String.valueOf(d.ejemplaresPorLibro))),
+                    Double.parseDouble(args.getOrDefault("zipf", String.valueOf(d.exponenteZipf))),
+                    hilos,
+                    Integer.parseInt(args.getOrDefault("semanas", String.valueOf(d.semanas))),
+                    Integer.parseInt(args.getOrDefault("solicitudesPorDia", String.valueOf(d.solicitudesPorDia))),
+                    Double.parseDouble(args.getOrDefault("retraso", String.valueOf(d.probabilidadRetraso))),
+                    Integer.parseInt(args.getOrDefault("retrasoMax", String.valueOf(d.diasRetrasoMax))),
+                    Long.parseLong(args.getOrDefault("semilla", String.valueOf(d.semilla))),
+                    LocalDate.parse(args.getOrDefault("inicio", d.fechaInicio.toString())));
+        } catch (RuntimeException e) {
+            if (e instanceof InvalidDataException) throw e;
+            throw new InvalidDataException("Argumento inválido: " + e.getMessage());
+        }
+    }
+
+    // getters
+    public int getUsuarios() { return usuarios; }
+    public int getLibros() { return libros; }
+    public int getEjemplaresPorLibro() { return ejemplaresPorLibro; }
+    public double getExponenteZipf() { return exponenteZipf; }
+    public int getHilos() { return hilos; }
+    public int getSemanas() { return semanas; }
+    public int getDias() { return semanas * 7; }
+    public int getSolicitudesPorDia() { return solicitudesPorDia; }
+    public double getProbabilidadRetraso() { return probabilidadRetraso; }
+    public int getDiasRetrasoMax() { return diasRetrasoMax; }
+    public long getSemilla() { return semilla; }
+    public LocalDate getFechaInicio() { return fechaInicio; }
+
+    @Override
+    public String toString() {
+        return String.format("usuarios=%d libros=%d ejemplares=%d zipf=%.2f hilos=%d semanas=%d solicitudesPorDia=%d retraso=%.2f retrasoMax=%d semilla=%d inicio=%s",
+                usuarios, libros, ejemplaresPorLibro, exponenteZipf, hilos, semanas, solicitudesPorDia,
+                probabilidadRetraso, diasRetrasoMax, semilla, fechaInicio);
+    }
+}
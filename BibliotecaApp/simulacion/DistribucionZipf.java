@@ -0,0 +1,32 @@
+package simulacion;
+
+import exceptions.InvalidDataException;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Muestrea rangos 0..n-1 con probabilidad proporcional a 1/(rango+1)^s.
+ * El rango 0 es el elemento más popular.
+ */
+public class DistribucionZipf {
+    private final double[] acumulada; // CDF precalculada, búsqueda binaria por muestra
+
+    public DistribucionZipf(int n, double exponente) {
+        if (n <= 0) throw new InvalidDataException("La distribución necesita al menos un elemento.");
+        if (!Double.isFinite(exponente) || exponente < 0) throw new InvalidDataException("Exponente Zipf debe ser finito y no negativo.");
+        acumulada = new double[n];
+        double suma = 0;
+        for (int i = 0; i < n; i++) {
+            suma += 1.0 / Math.pow(i + 1, exponente);
+            acumulada[i] = suma;
+        }
+        for (int i = 0; i < n; i++) acumulada[i] /= suma;
+        acumulada[n - 1] = 1.0;
+    }
+
+    public int muestrear(Random rnd) {
+        int pos = Arrays.binarySearch(acumulada, rnd.nextDouble());
+        return pos >= 0 ? pos : -pos - 1;
+    }
+}
@@ -0,0 +1,42 @@
+package simulacion;
+
+import java.util.Arrays;
+
+/**
+ * Acumula latencias en nanosegundos. No es thread-safe: cada hilo usa el suyo y se combinan al final.
+ */
+public class RegistroLatencias {
+    private long[] muestras = new long[1024];
+    private int cantidad;
+    private boolean ordenado = true;
+
+    public void registrar(long nanos) {
+        if (cantidad == muestras.length) muestras = Arrays.copyOf(muestras, cantidad * 2);
+        muestras[cantidad++] = nanos;
+        ordenado = false;
+    }
+
+    public void combinar(RegistroLatencias otro) {
+        for (int i = 0; i < otro.cantidad; i++) registrar(otro.muestras[i]);
+    }
+
+    public int getCantidad() {
+        return cantidad;
+    }
+
+    /** Percentil por rango más cercano; {@code p} entre 0 y 100. */
+    public long percentil(double p) {
+        if (cantidad == 0) return 0;
+        if (!ordenado) {
+            Arrays.sort(muestras, 0, cantidad);
+            ordenado = true;
+        }
+        // el epsilon evita que p=99.9 con 1000 muestras dé 999.0000000000001 y salte un rango
+        int idx = (int) Math.ceil(p * cantidad / 100.0 - 1e-9) - 1;
+        return muestras[Math.max(0, Math.min(idx, cantidad - 1))];
+    }
+
+    public long maximo() {
+        return percentil(100);
+    }
+}
@@ -0,0 +1,50 @@
+package simulacion;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reloj manual para simulaciones: el tiempo solo avanza cuando se llama a {@link #avanzar}.
+ * Las copias obtenidas con {@link #withZone} comparten el mismo instante.
+ */
+public class RelojSimulado extends Clock {
+    private final AtomicReference<Instant> ahora;
+    private final ZoneId zona;
+
+    public RelojSimulado(LocalDate fechaInicio, ZoneId zona) {
+        this(new AtomicReference<>(fechaInicio.atStartOfDay(zona).toInstant()), zona);
+    }
+
+    private RelojSimulado(AtomicReference<Instant> ahora, ZoneId zona) {
+        this.ahora = ahora;
+        this.zona = Objects.requireNonNull(zona);
+    }
+
+    public void avanzar(Duration duracion) {
+        ahora.updateAndGet(i -> i.plus(duracion));
+    }
+
+    public void avanzarDias(long dias) {
+        avanzar(Duration.ofDays(dias));
+    }
+
+    public LocalDate hoy() {
+        return LocalDate.now(this);
+    }
+
+    @Override
+    public ZoneId getZone() { return zona; }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(zona) ? this : new RelojSimulado(ahora, zone);
+    }
+
+    @Override
+    public Instant instant() { return ahora.get(); }
+}
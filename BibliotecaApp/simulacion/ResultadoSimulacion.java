@@ -0,0 +1,95 @@
+package simulacion;
+
+/**
+ * Métricas de una corrida: throughput, latencias por tipo de operación y contención.
+ */
+public class ResultadoSimulacion {
+    private final ConfiguracionSimulacion config;
+    private final long nanosOperaciones; // tiempo de pared dentro de los días, sin los ticks
+    private final long prestamos;
+    private final long devoluciones;
+    private final long rechazosSinEjemplares;
+    private final long rechazosUsuario;
+    private final long solicitudesOmitidas; // el usuario ya tenía ese ISBN en mano
+    private final RegistroLatencias latPrestamos;
+    private final RegistroLatencias latDevoluciones;
+    private final RegistroLatencias latTicks;
+    private final long bloqueos; // veces que un hilo trabajador esperó un monitor
+    private final long msBloqueado; // -1 si la JVM no mide tiempo de contención
+    private final int prestamosPendientes;
+    private final int usuariosConMultas;
+
+    public ResultadoSimulacion(ConfiguracionSimulacion config, long nanosOperaciones,
+                               long prestamos, long devoluciones, long rechazosSinEjemplares, long rechazosUsuario,
+                               long solicitudesOmitidas,
+                               RegistroLatencias latPrestamos, RegistroLatencias latDevoluciones, RegistroLatencias latTicks,
+                               long bloqueos, long msBloqueado, int prestamosPendientes, int usuariosConMultas) {
+        this.config = config;
+        this.nanosOperaciones = nanosOperaciones;
+        this.prestamos = prestamos;
+        this.devoluciones = devoluciones;
+        this.rechazosSinEjemplares = rechazosSinEjemplares;
+        this.rechazosUsuario = rechazosUsuario;
+        this.solicitudesOmitidas = solicitudesOmitidas;
+        this.latPrestamos = latPrestamos;
+        this.latDevoluciones = latDevoluciones;
+        this.latTicks = latTicks;
+        this.bloqueos = bloqueos;
+        this.msBloqueado = msBloqueado;
+        this.prestamosPendientes = prestamosPendientes;
+        this.usuariosConMultas = usuariosConMultas;
+    }
+
+    public long getOperaciones() {
+        return prestamos + devoluciones + rechazosSinEjemplares + rechazosUsuario;
+    }
+
+    public double getOperacionesPorSegundo() {
+        return nanosOperaciones == 0 ? 0 : getOperaciones() * 1e9 / nanosOperaciones;
+    }
+
+    // getters
+    public ConfiguracionSimulacion getConfig() { return config; }
+    public long getNanosOperaciones() { return nanosOperaciones; }
+    public long getPrestamos() { return prestamos; }
+    public long getDevoluciones() { return devoluciones; }
+    public long getRechazosSinEjemplares() { return rechazosSinEjemplares; }
+    public long getRechazosUsuario() { return rechazosUsuario; }
+    public long getSolicitudesOmitidas() { return solicitudesOmitidas; }
+    public RegistroLatencias getLatPrestamos() { return latPrestamos; }
+    public RegistroLatencias getLatDevoluciones() { return latDevoluciones; }
+    public RegistroLatencias getLatTicks() { return latTicks; }
+    public long getBloqueos() { return bloqueos; }
+    public long getMsBloqueado() { return msBloqueado; }
+    public int getPrestamosPendientes() { return prestamosPendientes; }
+    public int getUsuariosConMultas() { return usuariosConMultas; }
+
+    public String informe() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("--- Simulación de carga ---\n");
+        sb.append("Config: ").append(config).append('\n');
+        sb.append(String.format("Operaciones: %d en %.2f s — %.0f ops/s%n",
+                getOperaciones(), nanosOperaciones / 1e9, getOperacionesPorSegundo()));
+        sb.append(String.format("Préstamos OK: %d — Devoluciones: %d — Sin ejemplares: %d — Usuario sin cupo: %d — Omitidas (ISBN ya en mano): %d%n",
+                prestamos, devoluciones, rechazosSinEjemplares, rechazosUsuario, solicitudesOmitidas));
+        sb.append(fila("Préstamo", latPrestamos));
+        sb.append(fila("Devolución", latDevoluciones));
+        sb.append(fila("Tick diario", latTicks));
+        sb.append(String.format("Contención: %d bloqueos de monitor — %s%n", bloqueos,
+                msBloqueado < 0 ? "tiempo no disponible en esta JVM" : msBloqueado + " ms bloqueados"));
+        sb.append(String.format("Al final: %d préstamos pendientes — %d usuarios con multas%n",
+                prestamosPendientes, usuariosConMultas));
+        return sb.toString();
+    }
+
+    private static String fila(String nombre, RegistroLatencias r) {
+        return String.format("%-12s n=%-9d p50=%8.1f µs  p99=%8.1f µs  p999=%8.1f µs  max=%8.1f µs%n",
+                nombre, r.getCantidad(), r.percentil(50) / 1e3, r.percentil(99) / 1e3,
+                r.percentil(99.9) / 1e3, r.maximo() / 1e3);
+    }
+
+    @Override
+    public String toString() {
+        return informe();
+    }
+}
@@ -0,0 +1,220 @@
+package simulacion;
+
+import exceptions.LibroNoDisponibleException;
+import exceptions.UsuarioSinCupoException;
+import model.EstadoPrestamo;
+import model.Libro;
+import model.Prestamo;
+import model.Usuario;
+import service.Biblioteca;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Simulador macro de circulación sobre {@link Biblioteca}.
+ *
+ * Cada día simulado los hilos trabajadores ejecutan préstamos y devoluciones en paralelo. Al prestar se agenda
+ * el día de devolución: dentro del plazo de {@link Prestamo#DIAS_PRESTAMO} días, o con cierta probabilidad
+ * hasta {@link ConfiguracionSimulacion#getDiasRetrasoMax()} días tarde. Al cerrar el día
+ * se avanza el {@link RelojSimulado} y se corre {@link Biblioteca#evaluarPrestamosYMultas()} (tick de vencidos).
+ * Cada hilo atiende una partición fija de usuarios con su propio {@link Random} sembrado, así la secuencia de
+ * solicitudes es reproducible; con un solo hilo la corrida completa es determinista. Con varios hilos el
+ * resultado de cada solicitud depende del entrelazado (p. ej. quién se lleva el último ejemplar).
+ */
+public class SimuladorCarga {
+    private final ConfiguracionSimulacion config;
+    private final RelojSimulado reloj;
+    private final Biblioteca biblioteca;
+    private final List<Usuario> usuarios = new ArrayList<>();
+    private final List<String> isbnPorPopularidad = new ArrayList<>(); // índice 0 = el más pedido
+    private final DistribucionZipf popularidad;
+    private volatile int diaActual; // índice del día simulado en curso, lo leen los trabajadores
+    private final AtomicBoolean ejecutado = new AtomicBoolean(false);
+
+    public SimuladorCarga(ConfiguracionSimulacion config) {
+        this.config = Objects.requireNonNull(config);
+        this.reloj = new RelojSimulado(config.getFechaInicio(), ZoneOffset.UTC);
+        this.biblioteca = new Biblioteca(reloj);
+        this.popularidad = new DistribucionZipf(config.getLibros(), config.getExponenteZipf());
+        poblar();
+    }
+
+    private void poblar() {
+        int anioMax = reloj.hoy().getYear();
+        for (int i = 0; i < config.getLibros(); i++) {
+            String isbn = String.format("978%010d", i);
+            int anio = anioMax - (i % 200);
+            biblioteca.agregarLibro(new Libro(isbn, "Libro " + i, "Autor " + (i % 997), anio,
+                    config.getEjemplaresPorLibro(), reloj));
+            isbnPorPopularidad.add(isbn);
+        }
+        // el orden de popularidad no sigue al ISBN
+        Collections.shuffle(isbnPorPopularidad, new Random(config.getSemilla()));
+        for (int i = 0; i < config.getUsuarios(); i++) {
+            usuarios.add(biblioteca.registrarUsuario(new Usuario("Usuario " + i, "usuario" + i + "@sim.example.com")));
+        }
+    }
+
+    /** Corre la simulación. Es de un solo uso: reloj y biblioteca quedan en el estado final. */
+    public ResultadoSimulacion ejecutar() throws InterruptedException {
+        if (!ejecutado.compareAndSet(false, true)) {
+            throw new IllegalStateException("La simulación ya se ejecutó; crea un SimuladorCarga nuevo.");
+        }
+        int hilos = config.getHilos();
+        List<Trabajador> trabajadores = new ArrayList<>();
+        for (int w = 0; w < hilos; w++) {
+            List<Usuario> particion = new ArrayList<>();
+            for (int j = w; j < usuarios.size(); j += hilos) particion.add(usuarios.get(j));
+            int ops = config.getSolicitudesPorDia() / hilos + (w < config.getSolicitudesPorDia() % hilos ? 1 : 0);
+            trabajadores.add(new Trabajador(particion, ops, new Random(config.getSemilla() * 31 + w)));
+        }
+
+        ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        boolean midoTiempo = mx.isThreadContentionMonitoringSupported();
+        boolean monitoreoPrevio = midoTiempo && mx.isThreadContentionMonitoringEnabled();
+        if (midoTiempo) mx.setThreadContentionMonitoringEnabled(true);
+
+        List<Thread> hilosCreados = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService pool = Executors.newFixedThreadPool(hilos, r -> {
+            Thread t = new Thread(r, "sim-trabajador-" + hilosCreados.size());
+            t.setDaemon(true);
+            hilosCreados.add(t);
+            return t;
+        });
+
+        RegistroLatencias latTicks = new RegistroLatencias();
+        long nanosOperaciones = 0;
+        long bloqueos = 0;
+        long msBloqueado = midoTiempo ? 0 : -1;
+        try {
+            for (int dia = 0; dia < config.getDias(); dia++) {
+                diaActual = dia;
+                long t0 = System.nanoTime();
+                for (Future<Void> f : pool.invokeAll(trabajadores)) {
+                    try {
+                        f.get();
+                    } catch (ExecutionException e) {
+                        throw new IllegalStateException("Fallo en hilo trabajador", e.getCause());
+                    }
+                }
+                nanosOperaciones += System.nanoTime() - t0;
+
+                reloj.avanzarDias(1);
+                long t1 = System.nanoTime();
+                biblioteca.evaluarPrestamosYMultas();
+                latTicks.registrar(System.nanoTime() - t1);
+            }
+            long[] ids = hilosCreados.stream().mapToLong(Thread::getId).toArray();
+            for (ThreadInfo info : mx.getThreadInfo(ids)) {
+                if (info == null) continue;
+                bloqueos += info.getBlockedCount();
+                if (midoTiempo) msBloqueado += info.getBlockedTime();
+            }
+        } finally {
+            pool.shutdownNow();
+            // el monitoreo es global a la JVM: no dejarlo prendido si venía apagado
+            if (midoTiempo) mx.setThreadContentionMonitoringEnabled(monitoreoPrevio);
+        }
+
+        RegistroLatencias latPrestamos = new RegistroLatencias();
+        RegistroLatencias latDevoluciones = new RegistroLatencias();
+        long prestamos = 0, devoluciones = 0, sinEjemplares = 0, sinCupo = 0, omitidas = 0;
+        for (Trabajador t : trabajadores) {
+            latPrestamos.combinar(t.latPrestamos);
+            latDevoluciones.combinar(t.latDevoluciones);
+            prestamos += t.prestamos;
+            devoluciones += t.devoluciones;
+            sinEjemplares += t.rechazosSinEjemplares;
+            sinCupo += t.rechazosUsuario;
+            omitidas += t.omitidas;
+        }
+        int pendientes = (int) biblioteca.obtenerPrestamos().stream()
+                .filter(p -> p.getEstado() != EstadoPrestamo.DEVUELTO)
+                .count();
+        return new ResultadoSimulacion(config, nanosOperaciones, prestamos, devoluciones, sinEjemplares, sinCupo, omitidas,
+                latPrestamos, latDevoluciones, latTicks, bloqueos, msBloqueado,
+                pendientes, biblioteca.obtenerUsuariosConMultas().size());
+    }
+
+    // ejecuta las operaciones de un día para su partición de usuarios; solo un hilo a la vez la usa
+    private class Trabajador implements Callable<Void> {
+        private final List<Usuario> particion;
+        private final int solicitudesPorDia;
+        private final Random rnd;
+        private final Map<Integer, List<Devolucion>> agenda = new HashMap<>(); // clave: día de devolución
+        private final RegistroLatencias latPrestamos = new RegistroLatencias();
+        private final RegistroLatencias latDevoluciones = new RegistroLatencias();
+        private long prestamos, devoluciones, rechazosSinEjemplares, rechazosUsuario, omitidas;
+
+        Trabajador(List<Usuario> particion, int solicitudesPorDia, Random rnd) {
+            this.particion = particion;
+            this.solicitudesPorDia = solicitudesPorDia;
+            this.rnd = rnd;
+        }
+
+        @Override
+        public Void call() {
+            int dia = diaActual;
+            List<Devolucion> hoy = agenda.getOrDefault(dia, Collections.emptyList());
+            agenda.remove(dia);
+            // intercala devoluciones y solicitudes en un orden reproducible
+            int devPendientes = hoy.size();
+            int solPendientes = solicitudesPorDia;
+            while (devPendientes + solPendientes > 0) {
+                if (rnd.nextInt(devPendientes + solPendientes) < devPendientes) {
+                    Devolucion d = hoy.get(hoy.size() - devPendientes--);
+                    long t0 = System.nanoTime();
+                    biblioteca.devolverLibro(d.usuarioId, d.isbn);
+                    latDevoluciones.registrar(System.nanoTime() - t0);
+                    devoluciones++;
+                } else {
+                    solPendientes--;
+                    solicitar(dia);
+                }
+            }
+            return null;
+        }
+
+        private void solicitar(int dia) {
+            Usuario u = particion.get(rnd.nextInt(particion.size()));
+            String isbn = isbnPorPopularidad.get(popularidad.muestrear(rnd));
+            int duracion = rnd.nextDouble() < config.getProbabilidadRetraso()
+                    ? Prestamo.DIAS_PRESTAMO + 1 + rnd.nextInt(config.getDiasRetrasoMax())
+                    : 1 + rnd.nextInt(Prestamo.DIAS_PRESTAMO);
+            // la agenda solo guarda (usuario, isbn) y devolverLibro cierra el préstamo más antiguo que coincida;
+            // con dos copias del mismo ISBN en mano se devolvería la equivocada, así que no se pide una repetida
+            if (u.getIsbnPrestados().contains(isbn)) {
+                omitidas++;
+                return;
+            }
+            long t0 = System.nanoTime();
+            try {
+                biblioteca.realizarPrestamo(u.getId(), isbn);
+                prestamos++;
+                // si cae después del último día simulado queda pendiente al final
+                agenda.computeIfAbsent(dia + duracion, k -> new ArrayList<>()).add(new Devolucion(u.getId(), isbn));
+            } catch (LibroNoDisponibleException e) {
+                rechazosSinEjemplares++;
+            } catch (UsuarioSinCupoException e) {
+                rechazosUsuario++;
+            }
+            latPrestamos.registrar(System.nanoTime() - t0);
+        }
+    }
+
+    private static class Devolucion {
+        private final int usuarioId;
+        private final String isbn;
+
+        Devolucion(int usuarioId, String isbn) {
+            this.usuarioId = usuarioId;
+            this.isbn = isbn;
+        }
+    }
+}